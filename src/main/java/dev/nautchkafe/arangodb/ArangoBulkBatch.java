@@ -0,0 +1,106 @@
+package dev.nautchkafe.arangodb;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.entity.MultiDocumentEntity;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+final class ArangoBulkBatch<INPUT> {
+
+    private final List<INPUT> uniqueInputs;
+    private final int[] inputSlots;
+
+    private ArangoBulkBatch(final List<INPUT> uniqueInputs, final int[] inputSlots) {
+        this.uniqueInputs = uniqueInputs;
+        this.inputSlots = inputSlots;
+    }
+
+    static <INPUT> ArangoBulkBatch<INPUT> deduplicate(final List<INPUT> inputs,
+                                                      final Function<INPUT, String> keyExtractor) {
+        final Map<String, Integer> slotsByKey = new LinkedHashMap<>();
+        final List<INPUT> uniqueInputs = new ArrayList<>(inputs.size());
+        final int[] inputSlots = new int[inputs.size()];
+
+        for (int index = 0; index < inputs.size(); index++) {
+            final INPUT input = inputs.get(index);
+            final String key = ArangoValidation.requireNonBlank(keyExtractor.apply(input),
+                    "Bulk document key cannot be blank at index " + index).orElseThrowUnchecked();
+
+            final Integer slot = slotsByKey.putIfAbsent(key, uniqueInputs.size());
+            if (slot == null) {
+                inputSlots[index] = uniqueInputs.size();
+                uniqueInputs.add(input);
+            } else {
+                // last write wins, but the key keeps the slot of its first occurrence
+                inputSlots[index] = slot;
+                uniqueInputs.set(slot, input);
+            }
+        }
+
+        return new ArangoBulkBatch<>(uniqueInputs, inputSlots);
+    }
+
+    List<List<INPUT>> chunks(final ArangoBulkOptions options, final ToLongFunction<INPUT> sizeEstimator) {
+        final List<List<INPUT>> chunks = new ArrayList<>();
+        int from = 0;
+        long bytes = 0L;
+
+        for (int index = 0; index < uniqueInputs.size(); index++) {
+            // sizes are only estimated when a byte limit is set, estimating costs a serialization per document
+            final long size = options.sizeBounded() ? sizeEstimator.applyAsLong(uniqueInputs.get(index)) : 0L;
+            final int count = index - from;
+            if (count > 0 && (count >= options.maxDocuments() || bytes + size > options.maxBytes())) {
+                chunks.add(uniqueInputs.subList(from, index));
+                from = index;
+                bytes = 0L;
+            }
+
+            bytes += size;
+        }
+
+        if (from < uniqueInputs.size()) {
+            chunks.add(uniqueInputs.subList(from, uniqueInputs.size()));
+        }
+
+        return chunks;
+    }
+
+    <RESULT> List<RESULT> assemble(final List<RESULT> uniqueResults) {
+        final List<RESULT> results = new ArrayList<>(inputSlots.length);
+        for (final int slot : inputSlots) {
+            results.add(uniqueResults.get(slot));
+        }
+
+        return results;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <ENTITY> List<ArangoTry<ENTITY>> unpack(final MultiDocumentEntity<ENTITY> entity) {
+        final List<ArangoTry<ENTITY>> results = new ArrayList<>();
+        for (final Object entry : entity.getDocumentsAndErrors()) {
+            results.add(entry instanceof ErrorEntity error
+                    ? ArangoTry.failure(new ArangoDBException(error))
+                    : ArangoTry.success((ENTITY) entry));
+        }
+
+        return results;
+    }
+
+    static <INPUT, ENTITY> List<ArangoTry<ENTITY>> failAll(final List<INPUT> chunk, final Throwable throwable) {
+        final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+        final Exception error = cause instanceof Exception exception ? exception : new CompletionException(cause);
+
+        return chunk.stream()
+                .map(ignored -> ArangoTry.<ENTITY>failure(error))
+                .toList();
+    }
+}
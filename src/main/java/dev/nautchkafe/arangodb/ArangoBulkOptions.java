@@ -0,0 +1,23 @@
+package dev.nautchkafe.arangodb;
+
+record ArangoBulkOptions(
+        int maxDocuments,
+        long maxBytes
+) {
+    static final long UNBOUNDED_BYTES = Long.MAX_VALUE;
+    // count-only by default: a byte limit costs an extra serialization of every document to size it
+    static final ArangoBulkOptions DEFAULT = new ArangoBulkOptions(1000, UNBOUNDED_BYTES);
+
+    ArangoBulkOptions {
+        ArangoValidation.combine(
+                ArangoValidation.validate(maxDocuments, count -> count > 0,
+                        () -> new IllegalArgumentException("Bulk chunk document limit must be positive")),
+                ArangoValidation.validate(maxBytes, bytes -> bytes > 0,
+                        () -> new IllegalArgumentException("Bulk chunk byte limit must be positive"))
+        ).orElseThrowUnchecked();
+    }
+
+    boolean sizeBounded() {
+        return maxBytes != UNBOUNDED_BYTES;
+    }
+}
@@ -0,0 +1,138 @@
+package dev.nautchkafe.arangodb;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+final class ArangoCallbackDispatcher {
+
+    static final int DEFAULT_STRIPES = 64;
+    static final int DEFAULT_STRIPE_CAPACITY = 1024;
+
+    private final Executor executor;
+    private final Stripe[] stripes;
+    private final int stripeCapacity;
+
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+
+    ArangoCallbackDispatcher(final Executor executor) {
+        this(executor, DEFAULT_STRIPES, DEFAULT_STRIPE_CAPACITY);
+    }
+
+    ArangoCallbackDispatcher(final Executor executor, final int stripes, final int stripeCapacity) {
+        ArangoValidation.combine(
+                ArangoValidation.requireNonNull(executor, "Callback executor cannot be null"),
+                ArangoValidation.validate(stripes, count -> count > 0,
+                        () -> new IllegalArgumentException("Stripe count must be positive")),
+                ArangoValidation.validate(stripeCapacity, capacity -> capacity > 0,
+                        () -> new IllegalArgumentException("Stripe capacity must be positive"))
+        ).orElseThrowUnchecked();
+
+        this.executor = executor;
+        this.stripeCapacity = stripeCapacity;
+        this.stripes = new Stripe[stripes];
+        Arrays.setAll(this.stripes, index -> new Stripe());
+    }
+
+    <RESULT> void dispatch(final String key,
+                           final Supplier<CompletableFuture<RESULT>> operation,
+                           final Consumer<RESULT> onSuccess,
+                           final Consumer<Throwable> onFailure) {
+        final Stripe stripe = stripeFor(key);
+        if (stripe.pending.incrementAndGet() > stripeCapacity) {
+            // stripe is saturated: refuse before the request is issued instead of reordering its callback
+            stripe.pending.decrementAndGet();
+            overflowed.increment();
+            safeAccept(onFailure, new RejectedExecutionException("Callback stripe for key " + key + " is full"));
+            return;
+        }
+
+        // a ReentrantLock rather than synchronized, so a virtual thread waiting here does not pin its carrier
+        stripe.lock.lock();
+        try {
+            // issued under the stripe lock, so request order and callback order are the same;
+            // a request that fails to issue is delivered through the chain like any other failure
+            final CompletableFuture<RESULT> future = ArangoTry.of(operation)
+                    .recover(CompletableFuture::failedFuture)
+                    .orElseThrowUnchecked();
+
+            // callbacks of one stripe are chained in submission order, regardless of which future completes first.
+            // a driver future that never completes holds back its whole stripe, the driver request timeout is what
+            // bounds that wait, so it should not be disabled when ordered dispatch is used
+            stripe.tail = CompletableFuture.allOf(stripe.tail, future)
+                    .handleAsync((ignored, ignoredThrowable) -> {
+                        try {
+                            future.handle((result, throwable) -> {
+                                deliver(result, throwable, onSuccess, onFailure);
+                                return null;
+                            });
+                        } finally {
+                            stripe.pending.decrementAndGet();
+                        }
+                        return null;
+                    }, executor);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    <RESULT> void dispatchUnordered(final CompletableFuture<RESULT> future,
+                                    final Consumer<RESULT> onSuccess,
+                                    final Consumer<Throwable> onFailure) {
+        future.whenCompleteAsync((result, throwable) -> deliver(result, throwable, onSuccess, onFailure), executor);
+    }
+
+    ArangoDispatchMetrics metrics() {
+        return new ArangoDispatchMetrics(
+                dispatched.sum(),
+                overflowed.sum(),
+                Arrays.stream(stripes).mapToInt(stripe -> stripe.pending.get()).toArray());
+    }
+
+    private Stripe stripeFor(final String key) {
+        final int hash = key == null ? 0 : key.hashCode();
+        return stripes[Math.floorMod(hash ^ (hash >>> 16), stripes.length)];
+    }
+
+    private <RESULT> void deliver(final RESULT result,
+                                  final Throwable throwable,
+                                  final Consumer<RESULT> onSuccess,
+                                  final Consumer<Throwable> onFailure) {
+        dispatched.increment();
+        if (throwable != null) {
+            safeAccept(onFailure, unwrapException(throwable));
+            return;
+        }
+
+        safeAccept(onSuccess, result);
+    }
+
+    private <VALUE> void safeAccept(final Consumer<VALUE> valuer, final VALUE value) {
+        try {
+            valuer.accept(value);
+        } catch (final Throwable throwable) {
+            throwable.printStackTrace();
+        }
+    }
+
+    private Throwable unwrapException(final Throwable ex) {
+        return (ex instanceof CompletionException && ex.getCause() != null)
+                ? ex.getCause()
+                : ex;
+    }
+
+    private static final class Stripe {
+
+        private final AtomicInteger pending = new AtomicInteger();
+        private final ReentrantLock lock = new ReentrantLock();
+        private CompletableFuture<?> tail = CompletableFuture.completedFuture(null);
+    }
+}
@@ -2,14 +2,18 @@ package dev.nautchkafe.arangodb;
 
 import com.arangodb.ArangoDB;
 import com.arangodb.ArangoDBAsync;
-import com.arangodb.internal.ArangoDBAsyncImpl;
+import com.arangodb.ArangoDatabaseAsync;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 final class ArangoClient implements ArangoConnection {
 
     private final ExecutorService executorService;
+    private final List<ArangoDatabaseOperation> databases = new CopyOnWriteArrayList<>();
 
     ArangoClient(final ExecutorService executorService) {
         this.executorService = Executors.newVirtualThreadPerTaskExecutor();
@@ -17,27 +21,66 @@ final class ArangoClient implements ArangoConnection {
 
     @Override
     public ArangoDatabaseOperation connect(final ArangoCredentials credentials) {
-        return ArangoValidation.requireNonNull(credentials, "Credentials  cannot be null")
-                .orElseThrow();
+        return connect(credentials, ArangoStartupOptions.DEFAULT);
     }
 
-    private ArangoTry<ArangoDatabaseOperation> createDatabase(final ArangoCredentials credentials) {
+    @Override
+    public ArangoDatabaseOperation connect(final ArangoCredentials credentials, final ArangoStartupOptions startupOptions) {
+        return connect(credentials, startupOptions, ArangoSlowQueryOptions.DEFAULT);
+    }
+
+    @Override
+    public ArangoDatabaseOperation connect(final ArangoCredentials credentials,
+                                           final ArangoStartupOptions startupOptions,
+                                           final ArangoSlowQueryOptions slowQueryOptions) {
+        return ArangoValidation.combine(
+                ArangoValidation.requireNonNull(credentials, "Credentials  cannot be null"),
+                ArangoValidation.requireNonNull(startupOptions, "Startup options cannot be null"),
+                ArangoValidation.requireNonNull(slowQueryOptions, "Slow query options cannot be null")
+        ).flatMap(valid -> createDatabase(credentials, startupOptions, slowQueryOptions))
+                .getOrElseThrow(e -> new IllegalArgumentException("Failed to connect to database", e));
+    }
+
+    private ArangoTry<ArangoDatabaseOperation> createDatabase(final ArangoCredentials credentials,
+                                                              final ArangoStartupOptions startupOptions,
+                                                              final ArangoSlowQueryOptions slowQueryOptions) {
         return ArangoTry.of(() -> {
-           final ArangoDB arangoDriver = new ArangoDB.Builder()
+           final ArangoDB.Builder builder = new ArangoDB.Builder()
                    .host(credentials.hostname(), credentials.port())
                    .user(credentials.user())
                    .password(credentials.password())
-                   .useSsl(credentials.useSsl())
-                   .build();
+                   .useSsl(credentials.useSsl());
 
-           arangoDriver.async();
+           // pool size stays with the driver default unless configured, pre-warming does not cap it
+           if (startupOptions.maxConnections() != null) {
+               builder.maxConnections(startupOptions.maxConnections());
+           }
 
-           return null;
+           final ArangoDB arangoDriver = builder.build();
+
+           final ArangoDBAsync asyncDriver = arangoDriver.async();
+           final ArangoDatabaseAsync databaseDriver = asyncDriver.db(credentials.databaseName());
+
+           // building the driver does no I/O, the handshakes and lookups happen behind the readiness stage
+           final CompletableFuture<ArangoStartupReport> readiness =
+                   new ArangoStartup(asyncDriver, databaseDriver, startupOptions).start();
+
+           final ArangoDatabaseOperation database = new ArangoDatabase(asyncDriver, databaseDriver, executorService,
+                   new ArangoCallbackDispatcher(executorService),
+                   new ArangoSlowQueryLog(slowQueryOptions),
+                   readiness);
+           databases.add(database);
+
+           return database;
         });
     }
 
     @Override
     public void shutdown() {
-
+        CompletableFuture.allOf(databases.stream()
+                        .map(ArangoDatabaseOperation::close)
+                        .toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, throwable) -> executorService.shutdown());
+        databases.clear();
     }
 }
@@ -1,9 +1,13 @@
 package dev.nautchkafe.arangodb;
 
 import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.entity.DocumentDeleteEntity;
 import com.arangodb.model.DocumentCreateOptions;
+import com.arangodb.model.OverwriteMode;
 
+import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 interface ArangoCollectionOperation<TYPE> {
 
@@ -16,6 +20,29 @@ interface ArangoCollectionOperation<TYPE> {
               final Consumer<DocumentCreateEntity<TYPE>> onSuccess,
               final Consumer<Throwable> onFailure);
 
+    // bulk results are delivered unordered, they are not sequenced against single-key document callbacks
+    void upsertAll(final List<TYPE> documents,
+                   final Function<TYPE, String> keyExtractor,
+                   final OverwriteMode overwriteMode,
+                   final Consumer<List<ArangoTry<DocumentCreateEntity<TYPE>>>> onSuccess,
+                   final Consumer<Throwable> onFailure);
+
+    void upsertAll(final List<TYPE> documents,
+                   final Function<TYPE, String> keyExtractor,
+                   final OverwriteMode overwriteMode,
+                   final ArangoBulkOptions bulkOptions,
+                   final Consumer<List<ArangoTry<DocumentCreateEntity<TYPE>>>> onSuccess,
+                   final Consumer<Throwable> onFailure);
+
+    void deleteAll(final List<String> keys,
+                   final Consumer<List<ArangoTry<DocumentDeleteEntity<Void>>>> onSuccess,
+                   final Consumer<Throwable> onFailure);
+
+    void deleteAll(final List<String> keys,
+                   final ArangoBulkOptions bulkOptions,
+                   final Consumer<List<ArangoTry<DocumentDeleteEntity<Void>>>> onSuccess,
+                   final Consumer<Throwable> onFailure);
+
     ArangoDatabaseDocumentOperation<TYPE> document(final String key);
 }
 
@@ -4,5 +4,11 @@ interface ArangoConnection {
 
     ArangoDatabaseOperation connect(final ArangoCredentials credentials);
 
+    ArangoDatabaseOperation connect(final ArangoCredentials credentials, final ArangoStartupOptions startupOptions);
+
+    ArangoDatabaseOperation connect(final ArangoCredentials credentials,
+                                    final ArangoStartupOptions startupOptions,
+                                    final ArangoSlowQueryOptions slowQueryOptions);
+
     void shutdown();
 }
@@ -0,0 +1,35 @@
+package dev.nautchkafe.arangodb;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("dev.nautchkafe.arangodb.CursorBatch")
+@Label("ArangoDB Cursor Batch")
+@Category({"ArangoDB", "Driver"})
+@StackTrace(false)
+final class ArangoCursorBatchEvent extends Event {
+
+    @Label("Query Hash")
+    String queryHash;
+
+    @Label("Cursor Id")
+    String cursorId;
+
+    @Label("Batch Index")
+    int batchIndex;
+
+    @Label("Result Count")
+    int resultCount;
+
+    @Label("Has More")
+    boolean hasMore;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Error")
+    String error;
+}
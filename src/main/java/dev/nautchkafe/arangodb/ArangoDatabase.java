@@ -1,12 +1,15 @@
 package dev.nautchkafe.arangodb;
 
 import com.arangodb.ArangoDBAsync;
+import com.arangodb.ArangoCursorAsync;
 import com.arangodb.ArangoDatabaseAsync;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 
@@ -15,11 +18,25 @@ final class ArangoDatabase implements ArangoDatabaseOperation {
     private final ArangoDBAsync arangoDriver;
     private final ArangoDatabaseAsync databaseDriver;
     private final ExecutorService executorService;
+    private final ArangoCallbackDispatcher dispatcher;
+    private final ArangoSlowQueryLog slowQueryLog;
+    private final CompletableFuture<ArangoStartupReport> readiness;
 
     ArangoDatabase(final ArangoDBAsync arangoDriver, final ArangoDatabaseAsync databaseDriver, final ExecutorService executorService) {
+        this(arangoDriver, databaseDriver, executorService,
+                new ArangoCallbackDispatcher(executorService), new ArangoSlowQueryLog(ArangoSlowQueryOptions.DEFAULT),
+                CompletableFuture.completedFuture(ArangoStartupReport.EMPTY));
+    }
+
+    ArangoDatabase(final ArangoDBAsync arangoDriver, final ArangoDatabaseAsync databaseDriver,
+                   final ExecutorService executorService, final ArangoCallbackDispatcher dispatcher,
+                   final ArangoSlowQueryLog slowQueryLog, final CompletableFuture<ArangoStartupReport> readiness) {
         this.arangoDriver = arangoDriver;
         this.databaseDriver = databaseDriver;
         this.executorService = executorService;
+        this.dispatcher = dispatcher;
+        this.slowQueryLog = slowQueryLog;
+        this.readiness = readiness;
     }
 
     @Override
@@ -31,7 +48,8 @@ final class ArangoDatabase implements ArangoDatabaseOperation {
                 new ArangoDatabaseCollection<>(
                         databaseDriver.collection(name),
                         documentClazz,
-                        executorService
+                        executorService,
+                        dispatcher
                 ))).getOrElseThrow(e -> new IllegalArgumentException("Failed to create collection operation", e));
     }
 
@@ -58,18 +76,70 @@ final class ArangoDatabase implements ArangoDatabaseOperation {
             final Consumer<Throwable> onFailure
     ) {
         executorService.execute(() -> {
-            ArangoTry.of(() -> databaseDriver.query(query, bindVars, null, clazz))
-                    .flatMap(cursor ->
-                            ArangoTry.of(cursor::asListRemaining)
-                                    .andThen(() -> ArangoTry.run(cursor::close))
-                    )
+            final String queryHash = ArangoFlightRecorder.queryHash(query);
+            final ArangoQueryEvent event = ArangoFlightRecorder.beginQuery();
+            final boolean sampled = slowQueryLog.sample();
+            final long startNanos = System.nanoTime();
+
+            ArangoTry.of(() -> databaseDriver.query(query, clazz, bindVars, slowQueryLog.queryOptions(sampled))
+                            .thenCompose(cursor -> drainCursor(queryHash, cursor, new ArrayList<>(), 1)))
                     .fold(
-                            onSuccess,
+                            future -> {
+                                future.whenComplete((result, throwable) -> {
+                                    final long latencyNanos = System.nanoTime() - startNanos;
+                                    ArangoFlightRecorder.commitQuery(
+                                            event, queryHash,
+                                            result == null ? null : result.cursor().getId(),
+                                            result == null ? 0 : result.batches(),
+                                            result == null ? null : result.results(),
+                                            throwable);
+
+                                    // failed and timed out queries are captured as well, they tend to be the expensive ones
+                                    if (slowQueryLog.shouldCapture(latencyNanos, sampled)) {
+                                        executorService.execute(() -> slowQueryLog.observe(databaseDriver, query, bindVars,
+                                                latencyNanos, sampled, result == null ? null : result.cursor(), throwable));
+                                    }
+                                });
+                                dispatcher.dispatchUnordered(future.thenApply(QueryResult::results), onSuccess, onFailure);
+                            },
                             ex -> onFailure.accept(unwrapException(ex))
                     );
         });
     }
 
+    private <TYPE> CompletableFuture<QueryResult<TYPE>> drainCursor(final String queryHash,
+                                                                    final ArangoCursorAsync<TYPE> cursor,
+                                                                    final List<TYPE> results,
+                                                                    final int batches) {
+        results.addAll(cursor.getResult());
+        if (!cursor.hasMore()) {
+            return CompletableFuture.completedFuture(new QueryResult<>(results, cursor, batches));
+        }
+
+        return ArangoFlightRecorder.cursorBatch(queryHash, cursor.getId(), batches,
+                        cursor::nextBatch, ArangoCursorAsync::getResult, ArangoCursorAsync::hasMore)
+                // a cursor abandoned mid-way would otherwise stay open on the server until its TTL expires
+                .exceptionallyCompose(throwable -> cursor.close()
+                        .handle((ignored, closeFailure) -> null)
+                        .thenCompose(ignored -> CompletableFuture.<ArangoCursorAsync<TYPE>>failedFuture(throwable)))
+                .thenCompose(next -> drainCursor(queryHash, next, results, batches + 1));
+    }
+
+    @Override
+    public CompletionStage<ArangoStartupReport> ready() {
+        return readiness.minimalCompletionStage();
+    }
+
+    @Override
+    public List<ArangoSlowQuery> slowQueries() {
+        return slowQueryLog.dump();
+    }
+
+    @Override
+    public ArangoDispatchMetrics dispatchMetrics() {
+        return dispatcher.metrics();
+    }
+
     @Override
     public CompletableFuture<Void> close() {
         return arangoDriver.shutdown();
@@ -81,3 +151,7 @@ final class ArangoDatabase implements ArangoDatabaseOperation {
                 : ex;
 
     }
+
+    private record QueryResult<TYPE>(List<TYPE> results, ArangoCursorAsync<TYPE> cursor, int batches) {
+    }
+}
@@ -2,28 +2,35 @@ package dev.nautchkafe.arangodb;
 
 import com.arangodb.ArangoCollectionAsync;
 import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.entity.DocumentDeleteEntity;
+import com.arangodb.entity.MultiDocumentEntity;
 import com.arangodb.model.DocumentCreateOptions;
+import com.arangodb.model.DocumentDeleteOptions;
+import com.arangodb.model.OverwriteMode;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
 final class ArangoDatabaseCollection<TYPE> implements ArangoCollectionOperation<TYPE> {
 
     private final ArangoCollectionAsync collectionAsync;
     private final Class<TYPE> documentClazz;
     private final ExecutorService executorService;
+    private final ArangoCallbackDispatcher dispatcher;
 
     ArangoDatabaseCollection(final ArangoCollectionAsync collectionAsync,
                              final Class<TYPE> documentClazz,
-                             final ExecutorService executorService) {
+                             final ExecutorService executorService,
+                             final ArangoCallbackDispatcher dispatcher) {
         this.collectionAsync = collectionAsync;
         this.documentClazz = documentClazz;
-        this.executorService = Executors.newVirtualThreadPerTaskExecutor();
+        this.executorService = executorService;
+        this.dispatcher = dispatcher;
     }
 
     @Override
@@ -39,7 +46,73 @@ final class ArangoDatabaseCollection<TYPE> implements ArangoCollectionOperation<
                      final Consumer<Throwable> onFailure) {
         validateAndExecute(
                 document, onSuccess, onFailure,
-                validDocument -> collectionAsync.insertDocument(validDocument, options, documentClazz));
+                validDocument -> record("save", null,
+                        () -> collectionAsync.insertDocument(validDocument, options, documentClazz)));
+    }
+
+    @Override
+    public void upsertAll(final List<TYPE> documents,
+                          final Function<TYPE, String> keyExtractor,
+                          final OverwriteMode overwriteMode,
+                          final Consumer<List<ArangoTry<DocumentCreateEntity<TYPE>>>> onSuccess,
+                          final Consumer<Throwable> onFailure) {
+        upsertAll(documents, keyExtractor, overwriteMode, ArangoBulkOptions.DEFAULT, onSuccess, onFailure);
+    }
+
+    @Override
+    public void upsertAll(final List<TYPE> documents,
+                          final Function<TYPE, String> keyExtractor,
+                          final OverwriteMode overwriteMode,
+                          final ArangoBulkOptions bulkOptions,
+                          final Consumer<List<ArangoTry<DocumentCreateEntity<TYPE>>>> onSuccess,
+                          final Consumer<Throwable> onFailure) {
+        ArangoValidation.combine(
+                ArangoValidation.requireNonNull(documents, "Documents cannot be null"),
+                ArangoValidation.requireNonNull(keyExtractor, "Key extractor cannot be null"),
+                ArangoValidation.requireNonNull(overwriteMode, "Overwrite mode cannot be null"),
+                ArangoValidation.requireNonNull(bulkOptions, "Bulk options cannot be null"),
+                ArangoValidation.requireNonNull(onSuccess, "Success callback cannot be null"),
+                ArangoValidation.requireNonNull(onFailure, "Failure callback cannot be null")
+        ).ifFailure(e -> { throw new IllegalArgumentException(e.getMessage(), e); });
+
+        final DocumentCreateOptions options = new DocumentCreateOptions().overwriteMode(overwriteMode);
+        executeOperation(() -> executeBulk(
+                ArangoBulkBatch.deduplicate(documents, keyExtractor),
+                bulkOptions,
+                // only consulted when the caller opts into a byte limit, the driver serializes the chunk again on send
+                document -> collectionAsync.db().arango().getSerde().serialize(document).length,
+                chunk -> record("upsertAll", null,
+                        () -> collectionAsync.insertDocuments(chunk, options, documentClazz))
+        ), onSuccess, onFailure);
+    }
+
+    @Override
+    public void deleteAll(final List<String> keys,
+                          final Consumer<List<ArangoTry<DocumentDeleteEntity<Void>>>> onSuccess,
+                          final Consumer<Throwable> onFailure) {
+        deleteAll(keys, ArangoBulkOptions.DEFAULT, onSuccess, onFailure);
+    }
+
+    @Override
+    public void deleteAll(final List<String> keys,
+                          final ArangoBulkOptions bulkOptions,
+                          final Consumer<List<ArangoTry<DocumentDeleteEntity<Void>>>> onSuccess,
+                          final Consumer<Throwable> onFailure) {
+        ArangoValidation.combine(
+                ArangoValidation.requireNonNull(keys, "Keys cannot be null"),
+                ArangoValidation.requireNonNull(bulkOptions, "Bulk options cannot be null"),
+                ArangoValidation.requireNonNull(onSuccess, "Success callback cannot be null"),
+                ArangoValidation.requireNonNull(onFailure, "Failure callback cannot be null")
+        ).ifFailure(e -> { throw new IllegalArgumentException(e.getMessage(), e); });
+
+        final DocumentDeleteOptions options = new DocumentDeleteOptions();
+        executeOperation(() -> executeBulk(
+                ArangoBulkBatch.deduplicate(keys, Function.identity()),
+                bulkOptions,
+                String::length,
+                chunk -> record("deleteAll", null,
+                        () -> collectionAsync.deleteDocuments(chunk, options, Void.class))
+        ), onSuccess, onFailure);
     }
 
     @Override
@@ -49,7 +122,7 @@ final class ArangoDatabaseCollection<TYPE> implements ArangoCollectionOperation<
                         collectionAsync,
                         validKey,
                         documentClazz,
-                        executorService
+                        dispatcher
                 )))
                 .getOrElseThrow(e -> new IllegalArgumentException("Failed to create document operation", e));
     }
@@ -65,29 +138,45 @@ final class ArangoDatabaseCollection<TYPE> implements ArangoCollectionOperation<
                         onFailure::accept);
     }
 
+    private <INPUT, ENTITY> CompletableFuture<List<ArangoTry<ENTITY>>> executeBulk(
+            final ArangoBulkBatch<INPUT> batch,
+            final ArangoBulkOptions bulkOptions,
+            final ToLongFunction<INPUT> sizeEstimator,
+            final Function<List<INPUT>, CompletableFuture<MultiDocumentEntity<ENTITY>>> operation) {
+        // a failed chunk only fails its own documents, results of chunks that went through are kept
+        final List<CompletableFuture<List<ArangoTry<ENTITY>>>> results = batch.chunks(bulkOptions, sizeEstimator)
+                .stream()
+                .map(chunk -> ArangoTry.of(() -> operation.apply(chunk))
+                        .recover(CompletableFuture::failedFuture)
+                        .orElseThrowUnchecked()
+                        .thenApply(ArangoBulkBatch::unpack)
+                        .exceptionally(throwable -> ArangoBulkBatch.failAll(chunk, throwable)))
+                .toList();
+
+        return CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> batch.assemble(results.stream()
+                        .flatMap(chunk -> chunk.join().stream())
+                        .toList()));
+    }
+
+    private <RESULT> CompletableFuture<RESULT> record(final String operation,
+                                                      final String key,
+                                                      final Supplier<CompletableFuture<RESULT>> call) {
+        return ArangoFlightRecorder.operation(operation, collectionAsync.name(), key, call);
+    }
+
     private <RESULT> void executeOperation(final Supplier<CompletableFuture<RESULT>> operation,
                                            final Consumer<RESULT> onSuccess,
                                            final Consumer<Throwable> onFailure
     ) {
+        // saves have no key yet and bulk calls span many keys, so neither is sequenced against document(key) callbacks
         executorService.execute(() -> {
             ArangoTry.of(operation)
-                    .fold(future -> future.whenComplete((result, ex) -> {
-                                // :(
-                                if (ex != null) {
-                                    onFailure.accept(unwrapException(ex));
-                                } else {
-                                    onSuccess.accept(result);
-                                }
-                            }), onFailure::accept
+                    .fold(future -> dispatcher.dispatchUnordered(future, onSuccess, onFailure),
+                            onFailure::accept
                     );
         });
     }
-
-    private Throwable unwrapException(final Throwable ex) {
-        return (ex instanceof CompletionException && ex.getCause() != null)
-                ? ex.getCause()
-                : ex;
-    }
 }
 
 
@@ -7,58 +7,44 @@ import com.arangodb.model.DocumentDeleteOptions;
 import com.arangodb.model.DocumentReplaceOptions;
 import com.arangodb.model.DocumentUpdateOptions;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 final class ArangoDatabaseDocument<TYPE> implements ArangoDatabaseDocumentOperation<TYPE> {
 
     private final ArangoCollectionAsync collectionDriver;
     private final String key;
     private final Class<TYPE> documentClazz;
-    private final ExecutorService executorService;
+    private final ArangoCallbackDispatcher dispatcher;
 
     ArangoDatabaseDocument(final ArangoCollectionAsync collectionDriver,
                            final String key,
                            final Class<TYPE> documentClazz,
-                           final ExecutorService executorService) {
+                           final ArangoCallbackDispatcher dispatcher) {
         ArangoValidation.combine(
                 ArangoValidation.requireNonNull(collectionDriver, "Collection driver cannot be null"),
                 ArangoValidation.requireNonBlank(key, "Document key cannot be blank"),
-                ArangoValidation.requireNonNull(documentClazz, "Document type cannot be null")
+                ArangoValidation.requireNonNull(documentClazz, "Document type cannot be null"),
+                ArangoValidation.requireNonNull(dispatcher, "Callback dispatcher cannot be null")
         ).orElseThrowUnchecked();
 
         this.collectionDriver = collectionDriver;
         this.key = key;
         this.documentClazz = documentClazz;
-        this.executorService = Executors.newVirtualThreadPerTaskExecutor();
+        this.dispatcher = dispatcher;
     }
 
-    private <VALUE> void safeAccept(final Consumer<VALUE> valuer, final VALUE value) {
-        try {
-            valuer.accept(value);
-        } catch (final Throwable throwable) {
-            throwable.printStackTrace();
-        }
-    }
-
-    private <RESULT> void peekFuture(final CompletableFuture<RESULT> future,
+    private <RESULT> void peekFuture(final Supplier<CompletableFuture<RESULT>> operation,
                                      final Consumer<RESULT> onSuccess,
                                      final Consumer<Throwable> onFailure) {
-        future.whenComplete((result, throwable) -> {
-            if (throwable != null) {
-                safeAccept(onFailure, unwrapException(throwable));
-            }
-            safeAccept(onSuccess, result);
-        });
+        dispatcher.dispatch(key, operation, onSuccess, onFailure);
     }
 
-    private Throwable unwrapException(final Throwable ex) {
-        return (ex instanceof CompletionException && ex.getCause() != null)
-                ? ex.getCause()
-                : ex;
+    private <RESULT> CompletableFuture<RESULT> record(final String operation,
+                                                      final Supplier<CompletableFuture<RESULT>> call) {
+        return ArangoFlightRecorder.operation(operation, collectionDriver.name(), key, call);
     }
 
     @Override
@@ -68,8 +54,46 @@ final class ArangoDatabaseDocument<TYPE> implements ArangoDatabaseDocumentOperat
         ArangoValidation.requireNonNull(onFailure, "onFailure callback cannot be null")
                 .ifFailure(e -> { throw new IllegalArgumentException(e.getMessage(), e); });
 
-        final CompletableFuture<TYPE> future = collectionDriver.getDocument(key, documentClazz);
-        peekFuture(future, onSuccess, onFailure);
+        peekFuture(() -> record("fetch",
+                () -> collectionDriver.getDocument(key, documentClazz)), onSuccess, onFailure);
+    }
+
+    @Override
+    public <PROJECTION> void fetch(final List<String> attributes,
+                                   final Class<PROJECTION> projectionClazz,
+                                   final Consumer<PROJECTION> onSuccess,
+                                   final Consumer<Throwable> onFailure) {
+        ArangoValidation.combine(
+                ArangoValidation.requireNonNull(attributes, "Projection attributes cannot be null"),
+                ArangoValidation.requireNonNull(projectionClazz, "Projection type cannot be null")
+        ).ifFailure(e -> { throw new IllegalArgumentException(e.getMessage(), e); });
+
+        fetchProjection(ArangoProjection.of(attributes), projectionClazz, onSuccess, onFailure);
+    }
+
+    @Override
+    public <PROJECTION extends Record> void fetch(final Class<PROJECTION> projectionClazz,
+                                                  final Consumer<PROJECTION> onSuccess,
+                                                  final Consumer<Throwable> onFailure) {
+        ArangoValidation.requireNonNull(projectionClazz, "Projection type cannot be null")
+                .ifFailure(e -> { throw new IllegalArgumentException(e.getMessage(), e); });
+
+        fetchProjection(ArangoProjection.of(projectionClazz), projectionClazz, onSuccess, onFailure);
+    }
+
+    private <PROJECTION> void fetchProjection(final ArangoProjection projection,
+                                              final Class<PROJECTION> projectionClazz,
+                                              final Consumer<PROJECTION> onSuccess,
+                                              final Consumer<Throwable> onFailure) {
+        ArangoValidation.combine(
+                ArangoValidation.requireNonNull(onSuccess, "onSuccess callback cannot be null"),
+                ArangoValidation.requireNonNull(onFailure, "onFailure callback cannot be null")
+        ).ifFailure(e -> { throw new IllegalArgumentException(e.getMessage(), e); });
+
+        peekFuture(() -> record("fetch", () -> collectionDriver.db()
+                .query(projection.documentQuery(), projectionClazz,
+                        projection.documentBindVars(collectionDriver.name(), key))
+                .thenApply(cursor -> cursor.getResult().isEmpty() ? null : cursor.getResult().getFirst())), onSuccess, onFailure);
     }
 
     @Override
@@ -88,8 +112,8 @@ final class ArangoDatabaseDocument<TYPE> implements ArangoDatabaseDocumentOperat
                 ArangoValidation.requireNonNull(onFailure, "onFailure callback cannot be null")
         ).ifFailure(e -> { throw new IllegalArgumentException(e.getMessage(), e); });
 
-        final CompletableFuture<DocumentUpdateEntity<TYPE>> future = collectionDriver.updateDocument(key, document, options);
-        peekFuture(future, onSuccess, onFailure);
+        peekFuture(() -> record("update",
+                () -> collectionDriver.updateDocument(key, document, options)), onSuccess, onFailure);
     }
 
     @Override
@@ -109,8 +133,8 @@ final class ArangoDatabaseDocument<TYPE> implements ArangoDatabaseDocumentOperat
                 ArangoValidation.requireNonNull(onFailure, "onFailure callback cannot be null")
         ).ifFailure(e -> { throw new IllegalArgumentException(e.getMessage(), e); });
 
-        final CompletableFuture<DocumentUpdateEntity<TYPE>> future = collectionDriver.replaceDocument(key, document, options);
-        peekFuture(future, onSuccess, onFailure);
+        peekFuture(() -> record("replace",
+                () -> collectionDriver.replaceDocument(key, document, options)), onSuccess, onFailure);
     }
 
     @Override
@@ -127,8 +151,8 @@ final class ArangoDatabaseDocument<TYPE> implements ArangoDatabaseDocumentOperat
                 ArangoValidation.requireNonNull(onFailure, "onFailure callback cannot be null")
         ).ifFailure(e -> { throw new IllegalArgumentException(e.getMessage(), e); });
 
-        final CompletableFuture<DocumentDeleteEntity<Void>> future = collectionDriver.deleteDocument(key, null, Void.class);
-        peekFuture(future, onSuccess, onFailure);
+        peekFuture(() -> record("delete",
+                () -> collectionDriver.deleteDocument(key, null, Void.class)), onSuccess, onFailure);
     }
 
     @Override
@@ -139,7 +163,7 @@ final class ArangoDatabaseDocument<TYPE> implements ArangoDatabaseDocumentOperat
         ).ifFailure(e -> { throw new IllegalArgumentException(e.getMessage(), e); });
 
 
-        final CompletableFuture<Boolean> future = collectionDriver.documentExists(key);
-        peekFuture(future, onSuccess, onFailure);
+        peekFuture(() -> record("exists",
+                () -> collectionDriver.documentExists(key)), onSuccess, onFailure);
     }
 }
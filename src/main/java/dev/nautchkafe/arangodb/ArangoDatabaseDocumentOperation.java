@@ -6,6 +6,7 @@ import com.arangodb.model.DocumentDeleteOptions;
 import com.arangodb.model.DocumentReplaceOptions;
 import com.arangodb.model.DocumentUpdateOptions;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 interface ArangoDatabaseDocumentOperation<TYPE> {
@@ -13,6 +14,15 @@ interface ArangoDatabaseDocumentOperation<TYPE> {
     void fetch(final Consumer<TYPE> onSuccess,
                final Consumer<Throwable> onFailure);
 
+    <PROJECTION> void fetch(final List<String> attributes,
+                            final Class<PROJECTION> projectionClazz,
+                            final Consumer<PROJECTION> onSuccess,
+                            final Consumer<Throwable> onFailure);
+
+    <PROJECTION extends Record> void fetch(final Class<PROJECTION> projectionClazz,
+                                           final Consumer<PROJECTION> onSuccess,
+                                           final Consumer<Throwable> onFailure);
+
     void update(final TYPE document,
                 final Consumer<DocumentUpdateEntity<TYPE>> onSuccess,
                 final Consumer<Throwable> onFailure) throws Exception;
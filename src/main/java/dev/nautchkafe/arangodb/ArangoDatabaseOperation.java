@@ -3,6 +3,7 @@ package dev.nautchkafe.arangodb;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
 interface ArangoDatabaseOperation {
@@ -15,5 +16,11 @@ interface ArangoDatabaseOperation {
                                         final Consumer<List<TYPE>> onSuccess,
                                         final Consumer<Throwable> onFailure);
 
+    CompletionStage<ArangoStartupReport> ready();
+
+    List<ArangoSlowQuery> slowQueries();
+
+    ArangoDispatchMetrics dispatchMetrics();
+
     CompletableFuture<Void> close();
 }
@@ -0,0 +1,26 @@
+package dev.nautchkafe.arangodb;
+
+import java.util.Arrays;
+
+record ArangoDispatchMetrics(
+        long dispatched,
+        long overflowed,
+        int[] pendingPerStripe
+) {
+    ArangoDispatchMetrics {
+        pendingPerStripe = pendingPerStripe.clone();
+    }
+
+    int pending() {
+        return Arrays.stream(pendingPerStripe).sum();
+    }
+
+    int maxStripeDepth() {
+        return Arrays.stream(pendingPerStripe).max().orElse(0);
+    }
+
+    @Override
+    public int[] pendingPerStripe() {
+        return pendingPerStripe.clone();
+    }
+}
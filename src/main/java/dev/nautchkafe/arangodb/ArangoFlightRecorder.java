@@ -0,0 +1,141 @@
+package dev.nautchkafe.arangodb;
+
+import com.arangodb.entity.MultiDocumentEntity;
+
+import jdk.jfr.Event;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+final class ArangoFlightRecorder {
+
+    private static final String SUCCESS = "success";
+    private static final String FAILURE = "failure";
+
+    private ArangoFlightRecorder() {
+    }
+
+    static <RESULT> CompletableFuture<RESULT> operation(final String operation,
+                                                        final String collection,
+                                                        final String key,
+                                                        final Supplier<CompletableFuture<RESULT>> call) {
+        final ArangoOperationEvent event = new ArangoOperationEvent();
+        if (!event.isEnabled()) {
+            return call.get();
+        }
+
+        event.begin();
+        final CompletableFuture<RESULT> future = call.get();
+        // recording hangs off the side of the driver future, the caller's chain never waits for it
+        future.whenComplete((result, throwable) -> commit(event, () -> {
+            event.operation = operation;
+            event.collection = collection;
+            event.key = key;
+            event.resultCount = countOf(result);
+            event.outcome = throwable == null ? SUCCESS : FAILURE;
+            event.error = describe(throwable);
+        }));
+        return future;
+    }
+
+    static ArangoQueryEvent beginQuery() {
+        final ArangoQueryEvent event = new ArangoQueryEvent();
+        if (event.isEnabled()) {
+            event.begin();
+        }
+        return event;
+    }
+
+    static void commitQuery(final ArangoQueryEvent event,
+                            final String queryHash,
+                            final String cursorId,
+                            final int batchCount,
+                            final List<?> results,
+                            final Throwable throwable) {
+        if (!event.isEnabled()) {
+            return;
+        }
+
+        commit(event, () -> {
+            event.queryHash = queryHash;
+            event.cursorId = cursorId;
+            event.batchCount = batchCount;
+            event.resultCount = countOf(results);
+            event.outcome = throwable == null ? SUCCESS : FAILURE;
+            event.error = describe(throwable);
+        });
+    }
+
+    static <CURSOR> CompletableFuture<CURSOR> cursorBatch(final String queryHash,
+                                                          final String cursorId,
+                                                          final int batchIndex,
+                                                          final Supplier<CompletableFuture<CURSOR>> call,
+                                                          final Function<CURSOR, List<?>> batchResult,
+                                                          final Predicate<CURSOR> hasMore) {
+        final ArangoCursorBatchEvent event = new ArangoCursorBatchEvent();
+        if (!event.isEnabled()) {
+            return call.get();
+        }
+
+        event.begin();
+        final CompletableFuture<CURSOR> future = call.get();
+        future.whenComplete((cursor, throwable) -> commit(event, () -> {
+            event.queryHash = queryHash;
+            event.cursorId = cursorId;
+            event.batchIndex = batchIndex;
+            event.resultCount = cursor == null ? 0 : countOf(batchResult.apply(cursor));
+            event.hasMore = cursor != null && hasMore.test(cursor);
+            event.outcome = throwable == null ? SUCCESS : FAILURE;
+            event.error = describe(throwable);
+        }));
+        return future;
+    }
+
+    static String queryHash(final String query) {
+        return Integer.toHexString(query.hashCode());
+    }
+
+    private static void commit(final Event event, final Runnable populate) {
+        // committed on the completing thread, so the event carries the thread that actually finished the call;
+        // fields are only populated once the threshold says the event is kept
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+
+        populate.run();
+        event.commit();
+    }
+
+    private static int countOf(final Object result) {
+        if (result == null) {
+            return 0;
+        }
+
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+
+        if (result instanceof MultiDocumentEntity<?> documents) {
+            return documents.getDocumentsAndErrors().size();
+        }
+
+        return result instanceof Boolean exists && !exists ? 0 : 1;
+    }
+
+    private static String describe(final Throwable throwable) {
+        if (throwable == null) {
+            return null;
+        }
+
+        final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+        return cause.getClass().getSimpleName() + ": " + cause.getMessage();
+    }
+}
@@ -0,0 +1,32 @@
+package dev.nautchkafe.arangodb;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("dev.nautchkafe.arangodb.Operation")
+@Label("ArangoDB Operation")
+@Category({"ArangoDB", "Driver"})
+@StackTrace(false)
+final class ArangoOperationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Collection")
+    String collection;
+
+    @Label("Key")
+    String key;
+
+    @Label("Result Count")
+    int resultCount;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Error")
+    String error;
+}
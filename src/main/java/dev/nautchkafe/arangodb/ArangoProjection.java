@@ -0,0 +1,90 @@
+package dev.nautchkafe.arangodb;
+
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+record ArangoProjection(List<String> attributes, String documentQuery) {
+
+    private static final String DOCUMENT_VARIABLE = "doc";
+    private static final Pattern ATTRIBUTE_SEGMENT = Pattern.compile("[A-Za-z_][A-Za-z0-9_\\-]*");
+    private static final ConcurrentMap<Class<?>, ArangoProjection> RECORD_PROJECTIONS = new ConcurrentHashMap<>();
+
+    static ArangoProjection of(final List<String> attributes) {
+        ArangoValidation.validate(attributes, list -> list != null && !list.isEmpty(),
+                        () -> new IllegalArgumentException("Projection attributes cannot be empty"))
+                .orElseThrowUnchecked();
+
+        final List<String> validAttributes = attributes.stream()
+                .map(attribute -> validatePath(attribute).orElseThrowUnchecked())
+                .distinct()
+                .toList();
+
+        final String documentQuery = "FOR " + DOCUMENT_VARIABLE + " IN @@collection"
+                + " FILTER " + DOCUMENT_VARIABLE + "._key == @key LIMIT 1 RETURN " + compile(validAttributes);
+
+        return new ArangoProjection(validAttributes, documentQuery);
+    }
+
+    static ArangoProjection of(final Class<? extends Record> projectionClazz) {
+        ArangoValidation.requireNonNull(projectionClazz, "Projection type cannot be null")
+                .orElseThrowUnchecked();
+
+        return RECORD_PROJECTIONS.computeIfAbsent(projectionClazz, clazz -> of(
+                Arrays.stream(clazz.getRecordComponents())
+                        .map(RecordComponent::getName)
+                        .toList()));
+    }
+
+    Map<String, Object> documentBindVars(final String collection, final String key) {
+        return Map.of("@collection", collection, "key", key);
+    }
+
+    private static ArangoTry<String> validatePath(final String path) {
+        return ArangoValidation.requireNonBlank(path, "Projection attribute cannot be blank")
+                .flatMap(ArangoValidation.validator(
+                        valid -> Arrays.stream(valid.split("\\.", -1))
+                                .allMatch(segment -> ATTRIBUTE_SEGMENT.matcher(segment).matches()),
+                        () -> new IllegalArgumentException("Invalid projection attribute: " + path)));
+    }
+
+    private static String compile(final List<String> attributes) {
+        final Map<String, Object> tree = new LinkedHashMap<>();
+        attributes.forEach(path -> insert(tree, path.split("\\.")));
+        return render(tree, DOCUMENT_VARIABLE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void insert(final Map<String, Object> tree, final String[] segments) {
+        Map<String, Object> node = tree;
+        for (int index = 0; index < segments.length - 1; index++) {
+            final Object child = node.get(segments[index]);
+            if (child == Boolean.TRUE) {
+                return; // parent attribute is already projected as a whole
+            }
+
+            node = (Map<String, Object>) node.computeIfAbsent(segments[index], ignored -> new LinkedHashMap<>());
+        }
+
+        node.put(segments[segments.length - 1], Boolean.TRUE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String render(final Map<String, Object> tree, final String path) {
+        return tree.entrySet().stream()
+                .map(entry -> {
+                    final String attributePath = path + ".`" + entry.getKey() + "`";
+                    final String value = entry.getValue() instanceof Map<?, ?> child
+                            ? render((Map<String, Object>) child, attributePath)
+                            : attributePath;
+                    return "\"" + entry.getKey() + "\": " + value;
+                })
+                .collect(Collectors.joining(", ", "{ ", " }"));
+    }
+}
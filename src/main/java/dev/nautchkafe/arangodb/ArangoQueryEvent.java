@@ -0,0 +1,32 @@
+package dev.nautchkafe.arangodb;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("dev.nautchkafe.arangodb.Query")
+@Label("ArangoDB AQL Query")
+@Category({"ArangoDB", "Driver"})
+@StackTrace(false)
+final class ArangoQueryEvent extends Event {
+
+    @Label("Query Hash")
+    String queryHash;
+
+    @Label("Cursor Id")
+    String cursorId;
+
+    @Label("Batch Count")
+    int batchCount;
+
+    @Label("Result Count")
+    int resultCount;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Error")
+    String error;
+}
@@ -0,0 +1,40 @@
+package dev.nautchkafe.arangodb;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+record ArangoSlowQuery(
+        String queryHash,
+        String query,
+        Map<String, String> bindVarShape,
+        Duration latency,
+        boolean sampled,
+        String error,
+        long scannedFull,
+        long scannedIndex,
+        long filtered,
+        long peakMemoryUsage,
+        Duration serverExecutionTime,
+        List<String> planNodes,
+        Instant capturedAt
+) {
+    ArangoSlowQuery {
+        bindVarShape = Map.copyOf(bindVarShape);
+        planNodes = List.copyOf(planNodes);
+    }
+
+    boolean failed() {
+        return error != null;
+    }
+
+    boolean fullCollectionScan() {
+        return scannedFull > 0 || planNodes.contains(ArangoSlowQueryLog.FULL_SCAN_NODE);
+    }
+
+    ArangoSlowQuery withPlan(final List<String> planNodes) {
+        return new ArangoSlowQuery(queryHash, query, bindVarShape, latency, sampled, error, scannedFull, scannedIndex,
+                filtered, peakMemoryUsage, serverExecutionTime, planNodes, capturedAt);
+    }
+}
@@ -0,0 +1,157 @@
+package dev.nautchkafe.arangodb;
+
+import com.arangodb.ArangoCursorAsync;
+import com.arangodb.ArangoDatabaseAsync;
+import com.arangodb.entity.AqlQueryExplainEntity;
+import com.arangodb.entity.CursorEntity;
+import com.arangodb.entity.CursorStats;
+import com.arangodb.model.AqlQueryOptions;
+import com.arangodb.model.ExplainAqlQueryOptions;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+final class ArangoSlowQueryLog {
+
+    static final String FULL_SCAN_NODE = "EnumerateCollectionNode";
+
+    private static final int PROFILE_WITH_PLAN = 2;
+    private static final System.Logger LOGGER = System.getLogger(ArangoSlowQueryLog.class.getName());
+    private static final Comparator<ArangoSlowQuery> BY_LATENCY = Comparator.comparing(ArangoSlowQuery::latency);
+
+    private final ArangoSlowQueryOptions options;
+    private final Map<String, ArangoSlowQuery> offenders = new HashMap<>();
+
+    ArangoSlowQueryLog(final ArangoSlowQueryOptions options) {
+        this.options = ArangoValidation.requireNonNull(options, "Slow query options cannot be null")
+                .orElseThrowUnchecked();
+    }
+
+    boolean sample() {
+        return options.sampleRate() > 0.0D && ThreadLocalRandom.current().nextDouble() < options.sampleRate();
+    }
+
+    AqlQueryOptions queryOptions(final boolean sampled) {
+        // profiling costs server time, so only sampled queries pay for it up front, and get their plan back with it
+        return sampled ? new AqlQueryOptions().profile(PROFILE_WITH_PLAN) : new AqlQueryOptions();
+    }
+
+    boolean shouldCapture(final long latencyNanos, final boolean sampled) {
+        return sampled || latencyNanos >= options.threshold().toNanos();
+    }
+
+    void observe(final ArangoDatabaseAsync databaseDriver,
+                 final String query,
+                 final Map<String, Object> bindVars,
+                 final long latencyNanos,
+                 final boolean sampled,
+                 final ArangoCursorAsync<?> cursor,
+                 final Throwable throwable) {
+        final Optional<CursorEntity.Extras> extras = Optional.ofNullable(cursor).map(ArangoCursorAsync::getExtra);
+        final Optional<CursorStats> stats = extras.map(CursorEntity.Extras::getStats);
+        final ArangoSlowQuery slowQuery = new ArangoSlowQuery(
+                ArangoFlightRecorder.queryHash(query),
+                query,
+                shapeOf(bindVars),
+                Duration.ofNanos(latencyNanos),
+                sampled,
+                describe(throwable),
+                stats.map(CursorStats::getScannedFull).orElse(0L),
+                stats.map(CursorStats::getScannedIndex).orElse(0L),
+                stats.map(CursorStats::getFiltered).orElse(0L),
+                stats.map(CursorStats::getPeakMemoryUsage).orElse(0L),
+                stats.map(CursorStats::getExecutionTime)
+                        .map(seconds -> Duration.ofNanos((long) (seconds * 1_000_000_000L)))
+                        .orElse(Duration.ZERO),
+                extras.map(CursorEntity.Extras::getPlan).map(this::planNodes).orElse(List.of()),
+                Instant.now()
+        );
+
+        // sampled queries already carry their plan, explain only what the threshold caught (never re-run, it may be a write)
+        if (!slowQuery.planNodes().isEmpty() || !options.capturePlans()) {
+            capture(slowQuery);
+            return;
+        }
+
+        ArangoTry.of(() -> databaseDriver.explainAqlQuery(query, bindVars, new ExplainAqlQueryOptions()))
+                .fold(future -> future.whenComplete((explain, explainFailure) ->
+                                capture(explainFailure != null || explain.getPlan() == null
+                                        ? slowQuery
+                                        : slowQuery.withPlan(planNodes(explain.getPlan())))),
+                        error -> capture(slowQuery));
+    }
+
+    List<ArangoSlowQuery> dump() {
+        synchronized (offenders) {
+            return offenders.values().stream()
+                    .sorted(BY_LATENCY.reversed())
+                    .toList();
+        }
+    }
+
+    private void capture(final ArangoSlowQuery slowQuery) {
+        synchronized (offenders) {
+            // one entry per query text, so a single recurring offender cannot push every other query out;
+            // keyed by the text itself, the short hash is only a label and two queries may share it
+            final ArangoSlowQuery previous = offenders.get(slowQuery.query());
+            if (previous != null) {
+                if (BY_LATENCY.compare(slowQuery, previous) > 0) {
+                    offenders.put(slowQuery.query(), slowQuery);
+                }
+            } else if (offenders.size() < options.capacity()) {
+                offenders.put(slowQuery.query(), slowQuery);
+            } else {
+                final ArangoSlowQuery fastest = offenders.values().stream().min(BY_LATENCY).orElseThrow();
+                if (BY_LATENCY.compare(slowQuery, fastest) > 0) {
+                    offenders.remove(fastest.query());
+                    offenders.put(slowQuery.query(), slowQuery);
+                }
+            }
+        }
+
+        LOGGER.log(System.Logger.Level.DEBUG, "Slow AQL query {0} took {1} ms (sampled: {2}, error: {3})",
+                slowQuery.queryHash(), slowQuery.latency().toMillis(), slowQuery.sampled(), slowQuery.error());
+
+        if (slowQuery.fullCollectionScan()) {
+            LOGGER.log(System.Logger.Level.WARNING, "AQL query {0} performs a full collection scan: {1}",
+                    slowQuery.queryHash(), slowQuery.query());
+        }
+    }
+
+    private List<String> planNodes(final AqlQueryExplainEntity.ExecutionPlan plan) {
+        return plan.getNodes() == null
+                ? List.of()
+                : plan.getNodes().stream()
+                        .map(AqlQueryExplainEntity.ExecutionNode::getType)
+                        .toList();
+    }
+
+    private Map<String, String> shapeOf(final Map<String, Object> bindVars) {
+        final Map<String, String> shape = new LinkedHashMap<>();
+        if (bindVars != null) {
+            // only types are kept, bind values may carry user data
+            bindVars.forEach((name, value) -> shape.put(name, value == null ? "null" : value.getClass().getSimpleName()));
+        }
+
+        return shape;
+    }
+
+    private String describe(final Throwable throwable) {
+        if (throwable == null) {
+            return null;
+        }
+
+        final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+        return cause.getClass().getSimpleName() + ": " + cause.getMessage();
+    }
+}
@@ -0,0 +1,22 @@
+package dev.nautchkafe.arangodb;
+
+import java.time.Duration;
+
+record ArangoSlowQueryOptions(
+        Duration threshold,
+        double sampleRate,
+        int capacity,
+        boolean capturePlans
+) {
+    static final ArangoSlowQueryOptions DEFAULT = new ArangoSlowQueryOptions(Duration.ofMillis(500), 0.0D, 50, true);
+
+    ArangoSlowQueryOptions {
+        ArangoValidation.combine(
+                ArangoValidation.requireNonNull(threshold, "Slow query threshold cannot be null"),
+                ArangoValidation.validate(sampleRate, rate -> rate >= 0.0D && rate <= 1.0D,
+                        () -> new IllegalArgumentException("Sample rate must be between 0.0 and 1.0")),
+                ArangoValidation.validate(capacity, size -> size > 0,
+                        () -> new IllegalArgumentException("Slow query capacity must be positive"))
+        ).orElseThrowUnchecked();
+    }
+}
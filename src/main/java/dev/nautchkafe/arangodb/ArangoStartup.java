@@ -0,0 +1,150 @@
+package dev.nautchkafe.arangodb;
+
+import com.arangodb.ArangoDBAsync;
+import com.arangodb.ArangoDatabaseAsync;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+final class ArangoStartup {
+
+    private static final List<String> STEPS = List.of("connections", "database", "collections", "warmup");
+
+    private final Supplier<CompletableFuture<Void>> openConnections;
+    private final Supplier<CompletableFuture<Void>> verifyDatabase;
+    private final Supplier<CompletableFuture<Void>> verifyCollections;
+    private final Supplier<CompletableFuture<Void>> runWarmupQueries;
+    private final Map<String, Duration> steps = new ConcurrentHashMap<>();
+    private final Set<String> failedSteps = ConcurrentHashMap.newKeySet();
+
+    ArangoStartup(final ArangoDBAsync arangoDriver,
+                  final ArangoDatabaseAsync databaseDriver,
+                  final ArangoStartupOptions options) {
+        this(() -> openConnections(arangoDriver, options),
+                () -> verifyDatabase(databaseDriver),
+                () -> verifyCollections(databaseDriver, options),
+                () -> runWarmupQueries(databaseDriver, options));
+    }
+
+    ArangoStartup(final Supplier<CompletableFuture<Void>> openConnections,
+                  final Supplier<CompletableFuture<Void>> verifyDatabase,
+                  final Supplier<CompletableFuture<Void>> verifyCollections,
+                  final Supplier<CompletableFuture<Void>> runWarmupQueries) {
+        ArangoValidation.combine(
+                ArangoValidation.requireNonNull(openConnections, "Connections step cannot be null"),
+                ArangoValidation.requireNonNull(verifyDatabase, "Database step cannot be null"),
+                ArangoValidation.requireNonNull(verifyCollections, "Collections step cannot be null"),
+                ArangoValidation.requireNonNull(runWarmupQueries, "Warmup step cannot be null")
+        ).orElseThrowUnchecked();
+
+        this.openConnections = openConnections;
+        this.verifyDatabase = verifyDatabase;
+        this.verifyCollections = verifyCollections;
+        this.runWarmupQueries = runWarmupQueries;
+    }
+
+    CompletableFuture<ArangoStartupReport> start() {
+        final long startNanos = System.nanoTime();
+
+        final CompletableFuture<Void> connections = timed("connections", openConnections);
+        final CompletableFuture<Void> database = timed("database", verifyDatabase);
+        final CompletableFuture<Void> collections = timed("collections", verifyCollections);
+
+        // warmup queries reference the verified collections, everything else runs side by side
+        final CompletableFuture<Void> warmup = CompletableFuture.allOf(database, collections)
+                .thenCompose(ignored -> timed("warmup", runWarmupQueries));
+
+        // the timings collected so far travel with a failure, that is when they are most useful
+        return CompletableFuture.allOf(connections, warmup)
+                .handle((ignored, throwable) -> {
+                    final ArangoStartupReport report = report(startNanos);
+                    if (throwable != null) {
+                        throw new ArangoStartupException(report, unwrapException(throwable));
+                    }
+
+                    return report;
+                });
+    }
+
+    private static CompletableFuture<Void> openConnections(final ArangoDBAsync arangoDriver,
+                                                           final ArangoStartupOptions options) {
+        // concurrent requests force the pool to open its connections (TCP, TLS, auth) before real traffic arrives
+        return CompletableFuture.allOf(IntStream.range(0, options.warmConnections())
+                .mapToObj(ignored -> arangoDriver.getVersion())
+                .toArray(CompletableFuture[]::new));
+    }
+
+    private static CompletableFuture<Void> verifyDatabase(final ArangoDatabaseAsync databaseDriver) {
+        return databaseDriver.exists().thenAccept(exists -> {
+            if (!exists) {
+                throw new IllegalStateException("Database " + databaseDriver.name() + " does not exist");
+            }
+        });
+    }
+
+    private static CompletableFuture<Void> verifyCollections(final ArangoDatabaseAsync databaseDriver,
+                                                             final ArangoStartupOptions options) {
+        final List<CompletableFuture<String>> lookups = options.collections().stream()
+                .map(name -> databaseDriver.collection(name).exists()
+                        .thenApply(exists -> exists ? null : name))
+                .toList();
+
+        return CompletableFuture.allOf(lookups.toArray(CompletableFuture[]::new)).thenAccept(ignored -> {
+            final List<String> missing = lookups.stream()
+                    .map(CompletableFuture::join)
+                    .filter(Objects::nonNull)
+                    .toList();
+
+            if (!missing.isEmpty()) {
+                throw new IllegalStateException("Collections do not exist: " + missing);
+            }
+        });
+    }
+
+    private static CompletableFuture<Void> runWarmupQueries(final ArangoDatabaseAsync databaseDriver,
+                                                            final ArangoStartupOptions options) {
+        return CompletableFuture.allOf(options.warmupQueries().stream()
+                .map(query -> databaseDriver.query(query, Object.class)
+                        .thenCompose(cursor -> cursor.hasMore()
+                                ? cursor.close()
+                                : CompletableFuture.<Void>completedFuture(null)))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    private CompletableFuture<Void> timed(final String step, final Supplier<CompletableFuture<Void>> operation) {
+        final long startNanos = System.nanoTime();
+        return ArangoTry.of(operation)
+                .recover(CompletableFuture::failedFuture)
+                .orElseThrowUnchecked()
+                .whenComplete((ignored, throwable) -> {
+                    steps.put(step, Duration.ofNanos(System.nanoTime() - startNanos));
+                    if (throwable != null) {
+                        failedSteps.add(step);
+                    }
+                });
+    }
+
+    private ArangoStartupReport report(final long startNanos) {
+        final Map<String, Duration> orderedSteps = new LinkedHashMap<>();
+        STEPS.stream()
+                .filter(steps::containsKey)
+                .forEach(step -> orderedSteps.put(step, steps.get(step)));
+
+        return new ArangoStartupReport(orderedSteps, failedSteps, Duration.ofNanos(System.nanoTime() - startNanos));
+    }
+
+    private Throwable unwrapException(final Throwable ex) {
+        return (ex instanceof CompletionException && ex.getCause() != null)
+                ? ex.getCause()
+                : ex;
+    }
+}
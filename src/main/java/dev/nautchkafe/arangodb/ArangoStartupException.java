@@ -0,0 +1,15 @@
+package dev.nautchkafe.arangodb;
+
+final class ArangoStartupException extends IllegalStateException {
+
+    private final ArangoStartupReport report;
+
+    ArangoStartupException(final ArangoStartupReport report, final Throwable cause) {
+        super("Startup failed in steps " + report.failedSteps(), cause);
+        this.report = report;
+    }
+
+    ArangoStartupReport report() {
+        return report;
+    }
+}
@@ -0,0 +1,29 @@
+package dev.nautchkafe.arangodb;
+
+import java.util.List;
+
+record ArangoStartupOptions(
+        int warmConnections,
+        Integer maxConnections,
+        List<String> collections,
+        List<String> warmupQueries
+) {
+    static final ArangoStartupOptions DEFAULT = new ArangoStartupOptions(1, null, List.of(), List.of());
+
+    ArangoStartupOptions {
+        ArangoValidation.combine(
+                ArangoValidation.validate(warmConnections, count -> count >= 0,
+                        () -> new IllegalArgumentException("Warm connection count cannot be negative")),
+                ArangoValidation.validate(maxConnections, count -> count == null || count > 0,
+                        () -> new IllegalArgumentException("Max connections must be positive")),
+                // extra warm-up requests would only queue behind the pool limit instead of opening connections
+                ArangoValidation.validate(maxConnections, count -> count == null || warmConnections <= count,
+                        () -> new IllegalArgumentException("Warm connection count cannot exceed max connections")),
+                ArangoValidation.requireNonNull(collections, "Startup collections cannot be null"),
+                ArangoValidation.requireNonNull(warmupQueries, "Warmup queries cannot be null")
+        ).orElseThrowUnchecked();
+
+        collections = List.copyOf(collections);
+        warmupQueries = List.copyOf(warmupQueries);
+    }
+}
@@ -0,0 +1,24 @@
+package dev.nautchkafe.arangodb;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+record ArangoStartupReport(
+        Map<String, Duration> steps,
+        Set<String> failedSteps,
+        Duration total
+) {
+    static final ArangoStartupReport EMPTY = new ArangoStartupReport(Map.of(), Set.of(), Duration.ZERO);
+
+    ArangoStartupReport {
+        steps = Collections.unmodifiableMap(new LinkedHashMap<>(steps));
+        failedSteps = Set.copyOf(failedSteps);
+    }
+
+    boolean successful() {
+        return failedSteps.isEmpty();
+    }
+}
@@ -0,0 +1,95 @@
+package dev.nautchkafe.arangodb;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class ArangoBulkBatchTest {
+
+    private record Event(String key, int version) {
+    }
+
+    @Test
+    void lastWriteWinsInTheSlotOfTheFirstOccurrence() {
+        final ArangoBulkBatch<Event> batch = ArangoBulkBatch.deduplicate(List.of(
+                new Event("a", 1),
+                new Event("b", 1),
+                new Event("a", 2),
+                new Event("c", 1),
+                new Event("b", 2)
+        ), Event::key);
+
+        assertEquals(
+                List.of(List.of(new Event("a", 2), new Event("b", 2), new Event("c", 1))),
+                batch.chunks(new ArangoBulkOptions(10, ArangoBulkOptions.UNBOUNDED_BYTES), event -> 0L));
+    }
+
+    @Test
+    void assembleReturnsOneResultPerInputInInputOrder() {
+        final ArangoBulkBatch<String> batch = ArangoBulkBatch.deduplicate(
+                List.of("a", "b", "a", "c", "b"), Function.identity());
+
+        assertEquals(List.of("A", "B", "A", "C", "B"), batch.assemble(List.of("A", "B", "C")));
+    }
+
+    @Test
+    void chunksAreBoundedByDocumentCount() {
+        final ArangoBulkBatch<String> batch = ArangoBulkBatch.deduplicate(
+                List.of("a", "b", "c", "d", "e"), Function.identity());
+
+        assertEquals(
+                List.of(List.of("a", "b"), List.of("c", "d"), List.of("e")),
+                batch.chunks(new ArangoBulkOptions(2, ArangoBulkOptions.UNBOUNDED_BYTES), key -> 0L));
+    }
+
+    @Test
+    void chunksAreBoundedByEstimatedSize() {
+        final ArangoBulkBatch<String> batch = ArangoBulkBatch.deduplicate(
+                List.of("aaaa", "bbbb", "cc", "dddddddd", "e"), Function.identity());
+
+        // an oversized document still travels, alone in its own chunk
+        assertEquals(
+                List.of(List.of("aaaa", "bbbb"), List.of("cc"), List.of("dddddddd"), List.of("e")),
+                batch.chunks(new ArangoBulkOptions(100, 8), String::length));
+    }
+
+    @Test
+    void sizesAreNotEstimatedWithoutByteLimit() {
+        final ArangoBulkBatch<String> batch = ArangoBulkBatch.deduplicate(List.of("a", "b"), Function.identity());
+
+        assertEquals(List.of(List.of("a", "b")),
+                batch.chunks(new ArangoBulkOptions(10, ArangoBulkOptions.UNBOUNDED_BYTES), key -> {
+                    throw new AssertionError("size estimated");
+                }));
+    }
+
+    @Test
+    void defaultOptionsChunkByCountOnly() {
+        final ArangoBulkBatch<String> batch = ArangoBulkBatch.deduplicate(List.of("a", "b"), Function.identity());
+
+        assertFalse(ArangoBulkOptions.DEFAULT.sizeBounded());
+        assertEquals(List.of(List.of("a", "b")), batch.chunks(ArangoBulkOptions.DEFAULT, key -> {
+            throw new AssertionError("size estimated");
+        }));
+    }
+
+    @Test
+    void emptyBatchHasNoChunks() {
+        final ArangoBulkBatch<String> batch = ArangoBulkBatch.deduplicate(List.of(), Function.identity());
+
+        assertTrue(batch.chunks(ArangoBulkOptions.DEFAULT, String::length).isEmpty());
+        assertTrue(batch.assemble(List.of()).isEmpty());
+    }
+
+    @Test
+    void blankKeyIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ArangoBulkBatch.deduplicate(List.of("a", " "), Function.identity()));
+    }
+}
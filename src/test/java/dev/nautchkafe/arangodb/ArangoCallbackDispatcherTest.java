@@ -0,0 +1,115 @@
+package dev.nautchkafe.arangodb;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class ArangoCallbackDispatcherTest {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    @Test
+    void sameKeyCallbacksRunInSubmissionOrderWhenFuturesCompleteOutOfOrder() {
+        final ArangoCallbackDispatcher dispatcher = new ArangoCallbackDispatcher(DIRECT, 4, 8);
+        final List<Integer> delivered = new CopyOnWriteArrayList<>();
+
+        final CompletableFuture<Integer> first = new CompletableFuture<>();
+        final CompletableFuture<Integer> second = new CompletableFuture<>();
+        final CompletableFuture<Integer> third = new CompletableFuture<>();
+        dispatcher.dispatch("k", () -> first, delivered::add, Throwable::printStackTrace);
+        dispatcher.dispatch("k", () -> second, delivered::add, Throwable::printStackTrace);
+        dispatcher.dispatch("k", () -> third, delivered::add, Throwable::printStackTrace);
+
+        third.complete(3);
+        first.complete(1);
+        assertEquals(List.of(1), delivered);
+
+        second.complete(2);
+        assertEquals(List.of(1, 2, 3), delivered);
+    }
+
+    @Test
+    void differentStripesAreNotBlockedByEachOther() {
+        final ArangoCallbackDispatcher dispatcher = new ArangoCallbackDispatcher(DIRECT, 64, 8);
+        final List<String> delivered = new CopyOnWriteArrayList<>();
+
+        final CompletableFuture<String> slow = new CompletableFuture<>();
+        final CompletableFuture<String> fast = new CompletableFuture<>();
+        dispatcher.dispatch("a", () -> slow, delivered::add, Throwable::printStackTrace);
+        dispatcher.dispatch("b", () -> fast, delivered::add, Throwable::printStackTrace);
+
+        fast.complete("b");
+        assertEquals(List.of("b"), delivered);
+
+        slow.complete("a");
+        assertEquals(List.of("b", "a"), delivered);
+    }
+
+    @Test
+    void failureIsDeliveredOnlyToFailureCallback() {
+        final ArangoCallbackDispatcher dispatcher = new ArangoCallbackDispatcher(DIRECT, 1, 8);
+        final AtomicBoolean succeeded = new AtomicBoolean();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final IllegalStateException error = new IllegalStateException("boom");
+
+        dispatcher.dispatch("k", () -> CompletableFuture.failedFuture(error),
+                result -> succeeded.set(true), failure::set);
+
+        assertFalse(succeeded.get());
+        assertSame(error, failure.get());
+    }
+
+    @Test
+    void operationThatFailsToIssueIsDeliveredAsFailure() {
+        final ArangoCallbackDispatcher dispatcher = new ArangoCallbackDispatcher(DIRECT, 1, 8);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final IllegalStateException error = new IllegalStateException("serialization failed");
+
+        dispatcher.dispatch("k", () -> {
+            throw error;
+        }, result -> {}, failure::set);
+
+        assertSame(error, failure.get());
+        assertEquals(0, dispatcher.metrics().pending());
+    }
+
+    @Test
+    void overflowRejectsWithoutIssuingTheOperation() {
+        final ArangoCallbackDispatcher dispatcher = new ArangoCallbackDispatcher(DIRECT, 1, 2);
+        final List<Integer> delivered = new CopyOnWriteArrayList<>();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final AtomicBoolean issued = new AtomicBoolean();
+
+        final CompletableFuture<Integer> first = new CompletableFuture<>();
+        final CompletableFuture<Integer> second = new CompletableFuture<>();
+        dispatcher.dispatch("k", () -> first, delivered::add, failure::set);
+        dispatcher.dispatch("k", () -> second, delivered::add, failure::set);
+        dispatcher.dispatch("k", () -> {
+            issued.set(true);
+            return CompletableFuture.completedFuture(3);
+        }, delivered::add, failure::set);
+
+        assertFalse(issued.get());
+        assertInstanceOf(RejectedExecutionException.class, failure.get());
+        assertEquals(1, dispatcher.metrics().overflowed());
+        assertEquals(2, dispatcher.metrics().pending());
+
+        second.complete(2);
+        first.complete(1);
+        assertEquals(List.of(1, 2), delivered);
+        assertEquals(0, dispatcher.metrics().pending());
+        assertTrue(dispatcher.metrics().dispatched() >= 2);
+    }
+}
@@ -0,0 +1,62 @@
+package dev.nautchkafe.arangodb;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class ArangoProjectionTest {
+
+    private static final String QUERY_PREFIX = "FOR doc IN @@collection FILTER doc._key == @key LIMIT 1 RETURN ";
+
+    private record UserSummary(String name, int age) {
+    }
+
+    @Test
+    void flatAttributesAreQuotedAndKeptInOrder() {
+        assertEquals(QUERY_PREFIX + "{ \"name\": doc.`name`, \"age\": doc.`age` }",
+                ArangoProjection.of(List.of("name", "age")).documentQuery());
+    }
+
+    @Test
+    void nestedPathsKeepTheirShape() {
+        assertEquals(QUERY_PREFIX + "{ \"address\": { \"city\": doc.`address`.`city`, \"zip\": doc.`address`.`zip` },"
+                        + " \"name\": doc.`name` }",
+                ArangoProjection.of(List.of("address.city", "address.zip", "name")).documentQuery());
+    }
+
+    @Test
+    void parentPathAbsorbsChildPathsInEitherOrder() {
+        final String expected = QUERY_PREFIX + "{ \"address\": doc.`address` }";
+
+        assertEquals(expected, ArangoProjection.of(List.of("address", "address.city")).documentQuery());
+        assertEquals(expected, ArangoProjection.of(List.of("address.city", "address")).documentQuery());
+    }
+
+    @Test
+    void duplicateAttributesAreProjectedOnce() {
+        assertEquals(List.of("name"), ArangoProjection.of(List.of("name", "name")).attributes());
+    }
+
+    @Test
+    void injectionProneSegmentsAreRejected() {
+        List.of("a`b", "a b", "a..b", "a.", ".a", "1a", "a}", "a\"b", " ").forEach(attribute ->
+                assertThrows(IllegalArgumentException.class, () -> ArangoProjection.of(List.of(attribute)), attribute));
+    }
+
+    @Test
+    void emptyAttributesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> ArangoProjection.of(List.of()));
+    }
+
+    @Test
+    void recordProjectionUsesComponentsAndIsCached() {
+        final ArangoProjection projection = ArangoProjection.of(UserSummary.class);
+
+        assertEquals(QUERY_PREFIX + "{ \"name\": doc.`name`, \"age\": doc.`age` }", projection.documentQuery());
+        assertSame(projection, ArangoProjection.of(UserSummary.class));
+    }
+}
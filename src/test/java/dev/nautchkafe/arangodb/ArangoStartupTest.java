@@ -0,0 +1,100 @@
+package dev.nautchkafe.arangodb;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class ArangoStartupTest {
+
+    private static final Supplier<CompletableFuture<Void>> DONE = () -> CompletableFuture.completedFuture(null);
+
+    @Test
+    void successfulStartupReportsEveryStepInOrder() {
+        final ArangoStartupReport report = new ArangoStartup(DONE, DONE, DONE, DONE).start().join();
+
+        assertTrue(report.successful());
+        assertEquals(List.of("connections", "database", "collections", "warmup"), List.copyOf(report.steps().keySet()));
+        report.steps().values().forEach(duration -> assertTrue(duration.compareTo(report.total()) <= 0));
+    }
+
+    @Test
+    void stepTimingCoversTheWholeStep() throws InterruptedException {
+        final CompletableFuture<Void> connections = new CompletableFuture<>();
+        final CompletableFuture<ArangoStartupReport> startup =
+                new ArangoStartup(() -> connections, DONE, DONE, DONE).start();
+
+        Thread.sleep(20);
+        connections.complete(null);
+
+        final ArangoStartupReport report = startup.join();
+        assertTrue(report.steps().get("connections").compareTo(Duration.ofMillis(20)) >= 0);
+        assertTrue(report.total().compareTo(Duration.ofMillis(20)) >= 0);
+    }
+
+    @Test
+    void warmupWaitsForDatabaseAndCollections() {
+        final CompletableFuture<Void> collections = new CompletableFuture<>();
+        final AtomicBoolean warmedUp = new AtomicBoolean();
+        final CompletableFuture<ArangoStartupReport> startup = new ArangoStartup(DONE, DONE, () -> collections, () -> {
+            warmedUp.set(true);
+            return CompletableFuture.completedFuture(null);
+        }).start();
+
+        assertFalse(warmedUp.get());
+        assertFalse(startup.isDone());
+
+        collections.complete(null);
+        assertTrue(warmedUp.get());
+        assertTrue(startup.join().successful());
+    }
+
+    @Test
+    void failedStepIsReportedWithTheTimingsCollectedSoFar() {
+        final IllegalStateException missing = new IllegalStateException("Collections do not exist: [users]");
+        final CompletableFuture<ArangoStartupReport> startup = new ArangoStartup(DONE, DONE,
+                () -> CompletableFuture.failedFuture(missing), DONE).start();
+
+        final CompletionException thrown = assertThrows(CompletionException.class, startup::join);
+        final ArangoStartupException failure = assertInstanceOf(ArangoStartupException.class, thrown.getCause());
+
+        assertSame(missing, failure.getCause());
+        assertEquals(Set.of("collections"), failure.report().failedSteps());
+        assertFalse(failure.report().successful());
+        // warmup depends on the collections and never ran
+        assertEquals(List.of("connections", "database", "collections"), List.copyOf(failure.report().steps().keySet()));
+        assertEquals("Startup failed in steps [collections]", failure.getMessage());
+    }
+
+    @Test
+    void stepThatThrowsBeforeReturningAFutureIsReportedAsFailed() {
+        final CompletableFuture<ArangoStartupReport> startup = new ArangoStartup(() -> {
+            throw new IllegalStateException("connection refused");
+        }, DONE, DONE, DONE).start();
+
+        final CompletionException thrown = assertThrows(CompletionException.class, startup::join);
+        final ArangoStartupException failure = assertInstanceOf(ArangoStartupException.class, thrown.getCause());
+
+        assertEquals(Set.of("connections"), failure.report().failedSteps());
+        assertTrue(failure.report().steps().containsKey("warmup"));
+    }
+
+    @Test
+    void warmConnectionsCannotExceedMaxConnections() {
+        assertThrows(IllegalArgumentException.class, () -> new ArangoStartupOptions(4, 2, List.of(), List.of()));
+        assertEquals(2, new ArangoStartupOptions(2, 2, List.of(), List.of()).warmConnections());
+        assertEquals(8, new ArangoStartupOptions(8, null, List.of(), List.of()).warmConnections());
+    }
+}